@@ -0,0 +1,103 @@
+package com.enterprise.taskmanager.analytics;
+
+/**
+ * Mergeable histogram of due-date skew (hours between an event and the task due date).
+ * Positive skew = due in the future, negative = overdue.
+ *
+ * Buckets are signed powers of two: [0], ±[1, 2), ±[2, 4), ... ±[2^30, ∞).
+ * Fixed size, so merging is an element-wise sum and quantiles are
+ * accurate to within a factor of two.
+ * Not thread-safe: one instance per thread, combine with {@link #merge}.
+ */
+public final class DueDateSkewSketch {
+
+    private static final int MAGNITUDES = 31;
+    private static final int ZERO = MAGNITUDES;
+
+    private final long[] buckets = new long[2 * MAGNITUDES + 1];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Records one skew value in hours.
+     */
+    public void add(long hours) {
+        buckets[bucketOf(hours)]++;
+        count++;
+        min = Math.min(min, hours);
+        max = Math.max(max, hours);
+    }
+
+    /**
+     * Adds all values of another sketch into this one.
+     *
+     * @return this sketch
+     */
+    public DueDateSkewSketch merge(DueDateSkewSketch other) {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public DueDateSkewSketch copy() {
+        return new DueDateSkewSketch().merge(this);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long min() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long max() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * Approximate quantile: lower bound of the bucket holding the q-th value,
+     * clamped to the observed min/max.
+     *
+     * @param q quantile in [0, 1]
+     * @return skew in hours, 0 if empty
+     */
+    public long quantile(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(Math.max(0.0, Math.min(1.0, q)) * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= Math.max(1, rank)) {
+                return Math.max(min, Math.min(max, lowerBound(i)));
+            }
+        }
+        return max;
+    }
+
+    private static int bucketOf(long hours) {
+        if (hours == 0) {
+            return ZERO;
+        }
+        long magnitude = hours == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(hours);
+        int exponent = Math.min(MAGNITUDES - 1, 63 - Long.numberOfLeadingZeros(magnitude));
+        return hours > 0 ? ZERO + 1 + exponent : ZERO - 1 - exponent;
+    }
+
+    private static long lowerBound(int bucket) {
+        if (bucket == ZERO) {
+            return 0;
+        }
+        // Negative buckets grow away from zero, so their lower bound is the far edge
+        return bucket > ZERO
+                ? 1L << (bucket - ZERO - 1)
+                : -(1L << (ZERO - bucket)) + 1;
+    }
+}
@@ -0,0 +1,36 @@
+package com.enterprise.taskmanager.analytics;
+
+import com.enterprise.taskmanager.core.Task;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable task event: a task observed at a point in time
+ * (creation, update, ...). Input unit of the analytics aggregators.
+ */
+public final class TaskEvent {
+
+    public final Task task;
+    public final LocalDateTime timestamp;
+
+    public TaskEvent(Task task, LocalDateTime timestamp) {
+        this.task = task;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Urgency as seen at event time: high (1) if already past due, low (0) otherwise.
+     * Unlike {@link Task#getUrgency()}, it does not depend on the wall clock,
+     * so aggregates stay reproducible.
+     */
+    public int getUrgency() {
+        return task.dueDate.isBefore(timestamp) ? 1 : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskEvent{" +
+                "task=" + task.id +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,195 @@
+package com.enterprise.taskmanager.analytics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental workload aggregates over fixed, non-overlapping time windows.
+ * Dashboards read the precomputed per-window aggregates instead of rescanning tasks.
+ *
+ * Only the newest {@code retainedWindows} windows are kept; events older than
+ * that horizon are dropped. Thread-safe: writers lock one window at a time,
+ * readers get copies.
+ */
+public final class TumblingWindowAggregator {
+
+    private final long windowSeconds;
+    private final int retainedWindows;
+    private final ConcurrentSkipListMap<Long, Window> windows = new ConcurrentSkipListMap<>();
+    private final AtomicLong latestStart = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param window window length (whole seconds, > 0)
+     * @param retainedWindows number of windows kept (> 0)
+     */
+    public TumblingWindowAggregator(Duration window, int retainedWindows) {
+        if (window.getSeconds() <= 0) {
+            throw new IllegalArgumentException("Window must be at least one second: " + window);
+        }
+        if (retainedWindows <= 0) {
+            throw new IllegalArgumentException("Retained windows must be positive: " + retainedWindows);
+        }
+        this.windowSeconds = window.getSeconds();
+        this.retainedWindows = retainedWindows;
+    }
+
+    /**
+     * Adds one event to its window.
+     *
+     * @return false if the event is older than the retention horizon
+     */
+    public boolean add(TaskEvent event) {
+        long start = startOf(event.timestamp);
+        advance(start);
+        return update(start, accumulator -> accumulator.add(event));
+    }
+
+    /**
+     * Adds a batch: events are pre-aggregated per window in parallel,
+     * then each window is locked once.
+     *
+     * @return number of events accepted
+     */
+    public long addAll(Collection<TaskEvent> events) {
+        Map<Long, WorkloadAccumulator> batches = events.parallelStream()
+                .collect(Collectors.groupingBy(e -> startOf(e.timestamp), WorkloadAnalytics.collector()));
+
+        // Advance to the newest window first so older batches are judged against it
+        batches.keySet().stream().max(Long::compare).ifPresent(this::advance);
+
+        long accepted = 0;
+        for (Map.Entry<Long, WorkloadAccumulator> batch : batches.entrySet()) {
+            if (update(batch.getKey(), accumulator -> accumulator.merge(batch.getValue()))) {
+                accepted += batch.getValue().count();
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * @return copy of the window containing {@code time}, empty if none
+     */
+    public WorkloadAccumulator window(LocalDateTime time) {
+        Window window = windows.get(startOf(time));
+        if (window == null) {
+            return new WorkloadAccumulator();
+        }
+        synchronized (window) {
+            return window.evicted ? new WorkloadAccumulator() : window.accumulator.copy();
+        }
+    }
+
+    /**
+     * @return aggregate over all retained windows
+     */
+    public WorkloadAccumulator total() {
+        WorkloadAccumulator total = new WorkloadAccumulator();
+        for (Window window : windows.values()) {
+            synchronized (window) {
+                if (!window.evicted) {
+                    total.merge(window.accumulator);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Throughput: event count per retained window, keyed by window start.
+     */
+    public NavigableMap<LocalDateTime, Long> throughput() {
+        NavigableMap<LocalDateTime, Long> result = new TreeMap<>();
+        for (Map.Entry<Long, Window> entry : windows.entrySet()) {
+            Window window = entry.getValue();
+            synchronized (window) {
+                if (!window.evicted) {
+                    result.put(LocalDateTime.ofEpochSecond(entry.getKey(), 0, ZoneOffset.UTC), window.accumulator.count());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Start of the window containing {@code time}.
+     */
+    public LocalDateTime windowStart(LocalDateTime time) {
+        return LocalDateTime.ofEpochSecond(startOf(time), 0, ZoneOffset.UTC);
+    }
+
+    private long startOf(LocalDateTime time) {
+        long epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+        return Math.floorDiv(epochSecond, windowSeconds) * windowSeconds;
+    }
+
+    /**
+     * Applies {@code update} to the window starting at {@code start}.
+     * The horizon check and the update happen under the window lock,
+     * so they cannot interleave with the eviction of that window.
+     *
+     * @return false if the window is outside the horizon
+     */
+    private boolean update(long start, Consumer<WorkloadAccumulator> update) {
+        Window window = windows.computeIfAbsent(start, k -> new Window());
+        synchronized (window) {
+            if (window.evicted) {
+                return false;
+            }
+            if (start < oldestRetained()) {
+                // Created after the horizon moved past it: evict it ourselves
+                window.evicted = true;
+                windows.remove(start, window);
+                return false;
+            }
+            update.accept(window.accumulator);
+            return true;
+        }
+    }
+
+    private long oldestRetained() {
+        return latestStart.get() - (retainedWindows - 1) * windowSeconds;
+    }
+
+    /**
+     * Moves the retention horizon forward if {@code start} is a newer window
+     * and evicts the windows that fall out of it.
+     */
+    private void advance(long start) {
+        long latest = latestStart.get();
+        while (start > latest) {
+            if (latestStart.compareAndSet(latest, start)) {
+                evictBefore(oldestRetained());
+                return;
+            }
+            latest = latestStart.get();
+        }
+    }
+
+    private void evictBefore(long oldest) {
+        for (Map.Entry<Long, Window> entry : windows.headMap(oldest, false).entrySet()) {
+            Window window = entry.getValue();
+            synchronized (window) {
+                window.evicted = true;
+            }
+            windows.remove(entry.getKey(), window);
+        }
+    }
+
+    /**
+     * One window's aggregate; once evicted it accepts no more updates.
+     */
+    private static final class Window {
+
+        final WorkloadAccumulator accumulator = new WorkloadAccumulator();
+        boolean evicted;
+    }
+}
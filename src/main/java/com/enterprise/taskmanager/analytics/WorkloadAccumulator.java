@@ -0,0 +1,105 @@
+package com.enterprise.taskmanager.analytics;
+
+import com.enterprise.taskmanager.core.PriorityEngine;
+import java.time.Duration;
+
+/**
+ * Mergeable workload aggregate over task events.
+ *
+ * Tracks:
+ * - 7x24 heatmap of event counts (day 0 = Sunday, same grid as the frontend)
+ * - Eisenhower quadrant counts, indexed like {@link PriorityEngine#getQuadrantName(int, int)}
+ * - estimated-hours sum
+ * - due-date skew sketch
+ *
+ * Not thread-safe: one instance per thread, combine with {@link #merge}.
+ */
+public final class WorkloadAccumulator {
+
+    public static final int DAYS = 7;
+    public static final int HOURS = 24;
+
+    private final long[] heatmap = new long[DAYS * HOURS];
+    private final long[] quadrants = new long[4];
+    private final DueDateSkewSketch skew = new DueDateSkewSketch();
+    private long count;
+    private long estimatedHours;
+
+    /**
+     * Folds one event into this aggregate.
+     */
+    public void add(TaskEvent event) {
+        int day = event.timestamp.getDayOfWeek().getValue() % DAYS;
+        heatmap[day * HOURS + event.timestamp.getHour()]++;
+        quadrants[event.getUrgency() * 2 + event.task.getImportance()]++;
+        estimatedHours += event.task.estimatedTime;
+        skew.add(Duration.between(event.timestamp, event.task.dueDate).toHours());
+        count++;
+    }
+
+    /**
+     * Adds all counts of another aggregate into this one.
+     *
+     * @return this aggregate
+     */
+    public WorkloadAccumulator merge(WorkloadAccumulator other) {
+        for (int i = 0; i < heatmap.length; i++) {
+            heatmap[i] += other.heatmap[i];
+        }
+        for (int i = 0; i < quadrants.length; i++) {
+            quadrants[i] += other.quadrants[i];
+        }
+        skew.merge(other.skew);
+        count += other.count;
+        estimatedHours += other.estimatedHours;
+        return this;
+    }
+
+    public WorkloadAccumulator copy() {
+        return new WorkloadAccumulator().merge(this);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return fresh 7x24 grid of event counts
+     */
+    public long[][] heatmap() {
+        long[][] grid = new long[DAYS][HOURS];
+        for (int day = 0; day < DAYS; day++) {
+            System.arraycopy(heatmap, day * HOURS, grid[day], 0, HOURS);
+        }
+        return grid;
+    }
+
+    /**
+     * @param urgency 0 or 1
+     * @param importance 0 or 1
+     */
+    public long quadrantCount(int urgency, int importance) {
+        if (urgency < 0 || urgency > 1) {
+            throw new IllegalArgumentException("Urgency must be 0 or 1: " + urgency);
+        }
+        if (importance < 0 || importance > 1) {
+            throw new IllegalArgumentException("Importance must be 0 or 1: " + importance);
+        }
+        return quadrants[urgency * 2 + importance];
+    }
+
+    public long estimatedHours() {
+        return estimatedHours;
+    }
+
+    public double averageEstimatedHours() {
+        return count == 0 ? 0.0 : (double) estimatedHours / count;
+    }
+
+    /**
+     * @return copy of the due-date skew sketch
+     */
+    public DueDateSkewSketch skew() {
+        return skew.copy();
+    }
+}
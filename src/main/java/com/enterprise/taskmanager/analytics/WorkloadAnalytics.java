@@ -0,0 +1,39 @@
+package com.enterprise.taskmanager.analytics;
+
+import java.util.Collection;
+import java.util.stream.Collector;
+
+/**
+ * Stateless entry point for workload aggregation.
+ * Parallel streams give each worker its own {@link WorkloadAccumulator}
+ * and merge them at the end - no shared mutable state.
+ */
+public final class WorkloadAnalytics {
+
+    private WorkloadAnalytics() {
+        // Utility class
+    }
+
+    /**
+     * Collector folding task events into a {@link WorkloadAccumulator}.
+     * Safe for parallel streams.
+     */
+    public static Collector<TaskEvent, WorkloadAccumulator, WorkloadAccumulator> collector() {
+        return Collector.of(
+            WorkloadAccumulator::new,
+            WorkloadAccumulator::add,
+            WorkloadAccumulator::merge,
+            Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * Aggregates a batch of events in parallel.
+     *
+     * @param events input events
+     * @return aggregate over all events
+     */
+    public static WorkloadAccumulator aggregate(Collection<TaskEvent> events) {
+        return events.parallelStream().collect(collector());
+    }
+}
@@ -0,0 +1,126 @@
+package com.enterprise.taskmanager.core;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent task registry, sharded per partition (tenant or project).
+ *
+ * Reads are lock-free: {@link #snapshot(String)} is a single volatile read of an
+ * immutable {@link TaskSnapshot}, which can be passed straight to
+ * {@link PriorityEngine} or the scheduling engines.
+ *
+ * Writes lock only their own partition. Concurrent writers queue their changes
+ * and whoever holds the lock applies every pending change in one batch,
+ * publishing a single new snapshot (copy-on-write) via atomic reference swap.
+ */
+public final class TaskRegistry {
+
+    private final ConcurrentHashMap<String, Shard> shards = new ConcurrentHashMap<>();
+
+    /**
+     * Latest published snapshot of a partition. Never blocks.
+     *
+     * @param partition tenant or project key
+     * @return current snapshot, empty (version 0) if the partition has no writes
+     */
+    public TaskSnapshot snapshot(String partition) {
+        Shard shard = shards.get(partition);
+        return shard == null ? TaskSnapshot.empty(partition) : shard.current.get();
+    }
+
+    /**
+     * Inserts or replaces a task.
+     *
+     * @return version of a snapshot that contains the change
+     */
+    public long put(String partition, Task task) {
+        return apply(partition, List.of(task), List.of());
+    }
+
+    /**
+     * Removes a task, if present.
+     *
+     * @return version of a snapshot that reflects the change
+     */
+    public long remove(String partition, String taskId) {
+        return apply(partition, List.of(), List.of(taskId));
+    }
+
+    /**
+     * Applies puts, then removals, atomically: readers see all of them or none.
+     *
+     * @return version of a snapshot that contains the change
+     */
+    public long apply(String partition, Collection<Task> puts, Collection<String> removals) {
+        return shards.computeIfAbsent(partition, Shard::new)
+                .submit(new Change(List.copyOf(puts), List.copyOf(removals)));
+    }
+
+    /**
+     * Partitions that have received at least one write.
+     */
+    public Set<String> partitions() {
+        return Set.copyOf(shards.keySet());
+    }
+
+    private static final class Change {
+
+        final List<Task> puts;
+        final List<String> removals;
+
+        Change(List<Task> puts, List<String> removals) {
+            this.puts = puts;
+            this.removals = removals;
+        }
+    }
+
+    private static final class Shard {
+
+        final String partition;
+        final AtomicReference<TaskSnapshot> current;
+        final ConcurrentLinkedQueue<Change> pending = new ConcurrentLinkedQueue<>();
+        final ReentrantLock lock = new ReentrantLock();
+
+        Shard(String partition) {
+            this.partition = partition;
+            this.current = new AtomicReference<>(TaskSnapshot.empty(partition));
+        }
+
+        long submit(Change change) {
+            pending.add(change);
+            lock.lock();
+            try {
+                // A previous lock holder may already have published our change
+                Change next = pending.poll();
+                if (next == null) {
+                    return current.get().version;
+                }
+
+                TaskSnapshot base = current.get();
+                LinkedHashMap<String, Task> index = base.copyIndex();
+                do {
+                    for (Task task : next.puts) {
+                        index.put(task.id, task);
+                    }
+                    for (String id : next.removals) {
+                        index.remove(id);
+                    }
+                    next = pending.poll();
+                } while (next != null);
+
+                TaskSnapshot published = new TaskSnapshot(partition, base.version + 1, index);
+                current.set(published);
+                return published.version;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.enterprise.taskmanager.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of one registry partition.
+ * Safe to hand to the stateless engines from any thread:
+ * nothing in it ever changes after publication.
+ */
+public final class TaskSnapshot {
+
+    public final String partition;
+    public final long version;
+    public final List<Task> tasks;
+    private final Map<String, Task> byId;
+
+    TaskSnapshot(String partition, long version, LinkedHashMap<String, Task> byId) {
+        this.partition = partition;
+        this.version = version;
+        this.byId = Collections.unmodifiableMap(byId);
+        this.tasks = List.copyOf(byId.values());
+    }
+
+    static TaskSnapshot empty(String partition) {
+        return new TaskSnapshot(partition, 0, new LinkedHashMap<>());
+    }
+
+    /**
+     * @return the task with this id, or null if absent
+     */
+    public Task get(String id) {
+        return byId.get(id);
+    }
+
+    public boolean contains(String id) {
+        return byId.containsKey(id);
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Copy of the id index, for the registry to apply the next batch on.
+     */
+    LinkedHashMap<String, Task> copyIndex() {
+        return new LinkedHashMap<>(byId);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskSnapshot{" +
+                "partition='" + partition + '\'' +
+                ", version=" + version +
+                ", size=" + tasks.size() +
+                '}';
+    }
+}
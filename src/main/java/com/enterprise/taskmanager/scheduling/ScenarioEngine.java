@@ -0,0 +1,540 @@
+package com.enterprise.taskmanager.scheduling;
+
+import com.enterprise.taskmanager.core.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * What-if Scenario Engine: evaluates many sparse variations of one dependency graph.
+ * The base graph (index, topological order, end times) is built once and shared;
+ * each scenario only re-propagates from the tasks it overrides.
+ * Stateless - all state passed as parameters.
+ *
+ * Scheduling semantics match {@link CriticalPathEngine#calculate(List)}: tasks with
+ * unknown or cyclic dependencies are never scheduled and do not count towards the
+ * critical duration.
+ */
+public final class ScenarioEngine {
+
+    private ScenarioEngine() {
+        // Utility class
+    }
+
+    /**
+     * A sparse set of overrides applied on top of the base task list.
+     * Dependency overrides replace the whole dependency list of a task.
+     */
+    public static final class Scenario {
+
+        public final String name;
+        public final Map<String, Integer> durationOverrides;
+        public final Map<String, List<String>> dependencyOverrides;
+
+        public Scenario(
+            String name,
+            Map<String, Integer> durationOverrides,
+            Map<String, List<String>> dependencyOverrides
+        ) {
+            this.name = name;
+            this.durationOverrides = durationOverrides;
+            this.dependencyOverrides = dependencyOverrides;
+        }
+
+        /**
+         * "What if task X takes N hours?"
+         */
+        public static Scenario duration(String name, String taskId, int estimatedTime) {
+            return new Scenario(name, Map.of(taskId, estimatedTime), Map.of());
+        }
+
+        /**
+         * "What if task X depends on exactly these tasks?"
+         */
+        public static Scenario dependencies(String name, String taskId, List<String> dependencies) {
+            return new Scenario(name, Map.of(), Map.of(taskId, dependencies));
+        }
+    }
+
+    /**
+     * Outcome of one scenario, expressed as a diff against the base graph.
+     * Slack changes only cover tasks scheduled in both the base and the scenario.
+     */
+    public static final class ScenarioResult {
+
+        public final String name;
+        public final int criticalDuration;
+        public final int durationDelta;
+        public final Map<String, Integer> slackChanges;
+        public final List<String> criticalChain;
+        public final List<String> enteredCriticalChain;
+        public final List<String> leftCriticalChain;
+
+        public ScenarioResult(
+            String name,
+            int criticalDuration,
+            int durationDelta,
+            Map<String, Integer> slackChanges,
+            List<String> criticalChain,
+            List<String> enteredCriticalChain,
+            List<String> leftCriticalChain
+        ) {
+            this.name = name;
+            this.criticalDuration = criticalDuration;
+            this.durationDelta = durationDelta;
+            this.slackChanges = slackChanges;
+            this.criticalChain = criticalChain;
+            this.enteredCriticalChain = enteredCriticalChain;
+            this.leftCriticalChain = leftCriticalChain;
+        }
+
+        @Override
+        public String toString() {
+            return "ScenarioResult{" +
+                    "name='" + name + '\'' +
+                    ", criticalDuration=" + criticalDuration +
+                    ", durationDelta=" + durationDelta +
+                    '}';
+        }
+    }
+
+    /**
+     * Evaluates every scenario against the shared base graph, in parallel.
+     *
+     * @param tasks base task list (ids must be unique)
+     * @param scenarios sparse override sets
+     * @return one result per scenario, in input order
+     */
+    public static List<ScenarioResult> evaluate(List<Task> tasks, List<Scenario> scenarios) {
+        Graph base = new Graph(tasks);
+
+        return scenarios.parallelStream()
+                .map(scenario -> evaluate(base, tasks, scenario))
+                .toList();
+    }
+
+    /**
+     * Critical duration of the base graph; equal to {@link CriticalPathEngine#calculate(List)}.
+     */
+    public static int baseDuration(List<Task> tasks) {
+        return new Graph(tasks).duration;
+    }
+
+    private static ScenarioResult evaluate(Graph base, List<Task> tasks, Scenario scenario) {
+        Delta delta = new Delta(base, scenario);
+
+        if (delta.requiresRebuild) {
+            // Overrides reorder the graph: shared order is invalid, build from scratch
+            Graph rebuilt = new Graph(applyOverrides(tasks, scenario));
+            return diff(base, scenario.name, rebuilt.endTimes, rebuilt.tails, rebuilt.scheduled, rebuilt.duration);
+        }
+
+        delta.propagateForward();
+        delta.propagateBackward();
+
+        int duration = 0;
+        for (int i = 0; i < base.size; i++) {
+            if (delta.scheduled[i]) {
+                duration = Math.max(duration, delta.endTimes[i]);
+            }
+        }
+
+        return diff(base, scenario.name, delta.endTimes, delta.tails, delta.scheduled, duration);
+    }
+
+    private static ScenarioResult diff(
+        Graph base,
+        String name,
+        int[] endTimes,
+        int[] tails,
+        boolean[] scheduled,
+        int duration
+    ) {
+        Map<String, Integer> slackChanges = new LinkedHashMap<>();
+        List<String> chain = new ArrayList<>();
+        List<String> entered = new ArrayList<>();
+        List<String> left = new ArrayList<>();
+
+        for (int i = 0; i < base.size; i++) {
+            boolean critical = scheduled[i] && duration - endTimes[i] - tails[i] == 0;
+
+            if (critical) {
+                chain.add(base.ids[i]);
+            }
+            if (critical && !base.critical[i]) {
+                entered.add(base.ids[i]);
+            } else if (!critical && base.critical[i]) {
+                left.add(base.ids[i]);
+            }
+
+            if (scheduled[i] && base.scheduled[i]) {
+                int change = (duration - endTimes[i] - tails[i]) - base.slack(i);
+                if (change != 0) {
+                    slackChanges.put(base.ids[i], change);
+                }
+            }
+        }
+
+        return new ScenarioResult(
+            name,
+            duration,
+            duration - base.duration,
+            Collections.unmodifiableMap(slackChanges),
+            List.copyOf(chain),
+            List.copyOf(entered),
+            List.copyOf(left)
+        );
+    }
+
+    private static List<Task> applyOverrides(List<Task> tasks, Scenario scenario) {
+        List<Task> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(new Task(
+                task.id,
+                task.title,
+                scenario.durationOverrides.getOrDefault(task.id, task.estimatedTime),
+                task.priority,
+                task.dueDate,
+                scenario.dependencyOverrides.getOrDefault(task.id, task.dependencies)
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * Immutable, index-based view of a task list: shared by all scenarios.
+     * tails[i] is the longest scheduled chain after task i finishes, so
+     * slack = duration - endTime - tail.
+     */
+    private static final class Graph {
+
+        final int size;
+        final String[] ids;
+        final Map<String, Integer> index;
+        final int[] durations;
+        final int[][] predecessors;
+        final int[][] successors;
+        final boolean[] unknownDependency;
+        final int[] order;
+        final int[] position;
+        final int[] endTimes;
+        final int[] tails;
+        final boolean[] scheduled;
+        final boolean[] critical;
+        final int duration;
+
+        Graph(List<Task> tasks) {
+            size = tasks.size();
+            ids = new String[size];
+            index = new HashMap<>();
+            durations = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                Task task = tasks.get(i);
+                if (index.put(task.id, i) != null) {
+                    throw new IllegalArgumentException("Duplicate task id: " + task.id);
+                }
+                ids[i] = task.id;
+                durations[i] = task.estimatedTime;
+            }
+
+            predecessors = new int[size][];
+            unknownDependency = new boolean[size];
+            int[] successorCounts = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                List<String> dependencies = tasks.get(i).dependencies;
+                int[] known = new int[dependencies.size()];
+                int count = 0;
+                for (String depId : dependencies) {
+                    Integer dep = index.get(depId);
+                    if (dep == null) {
+                        unknownDependency[i] = true;
+                    } else {
+                        known[count++] = dep;
+                        successorCounts[dep]++;
+                    }
+                }
+                predecessors[i] = count == known.length ? known : Arrays.copyOf(known, count);
+            }
+
+            successors = new int[size][];
+            for (int i = 0; i < size; i++) {
+                successors[i] = new int[successorCounts[i]];
+                successorCounts[i] = 0;
+            }
+            for (int i = 0; i < size; i++) {
+                for (int dep : predecessors[i]) {
+                    successors[dep][successorCounts[dep]++] = i;
+                }
+            }
+
+            // Kahn's algorithm: tasks on or behind a cycle never get a position
+            position = new int[size];
+            Arrays.fill(position, -1);
+            int[] inDegree = new int[size];
+            int[] queue = new int[size];
+            int head = 0;
+            int tail = 0;
+            for (int i = 0; i < size; i++) {
+                inDegree[i] = predecessors[i].length;
+                if (inDegree[i] == 0) {
+                    queue[tail++] = i;
+                }
+            }
+            while (head < tail) {
+                int node = queue[head];
+                position[node] = head++;
+                for (int next : successors[node]) {
+                    if (--inDegree[next] == 0) {
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            order = Arrays.copyOf(queue, tail);
+
+            endTimes = new int[size];
+            scheduled = new boolean[size];
+            for (int node : order) {
+                boolean ready = !unknownDependency[node];
+                int start = 0;
+                for (int dep : predecessors[node]) {
+                    ready &= scheduled[dep];
+                    start = Math.max(start, endTimes[dep]);
+                }
+                scheduled[node] = ready;
+                endTimes[node] = ready ? start + durations[node] : 0;
+            }
+
+            tails = new int[size];
+            for (int k = order.length - 1; k >= 0; k--) {
+                int node = order[k];
+                int longest = 0;
+                for (int next : successors[node]) {
+                    if (scheduled[next]) {
+                        longest = Math.max(longest, durations[next] + tails[next]);
+                    }
+                }
+                tails[node] = longest;
+            }
+
+            int max = 0;
+            for (int i = 0; i < size; i++) {
+                if (scheduled[i]) {
+                    max = Math.max(max, endTimes[i]);
+                }
+            }
+            duration = max;
+
+            critical = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                critical[i] = scheduled[i] && slack(i) == 0;
+            }
+        }
+
+        int slack(int i) {
+            return duration - endTimes[i] - tails[i];
+        }
+    }
+
+    /**
+     * Copy-on-write working state for one scenario.
+     * Only the overridden tasks and whatever their changes reach are recomputed.
+     */
+    private static final class Delta {
+
+        final Graph base;
+        final int[] durations;
+        final int[] endTimes;
+        final int[] tails;
+        final boolean[] scheduled;
+        final Map<Integer, int[]> predecessorOverrides = new HashMap<>();
+        final Map<Integer, List<Integer>> addedSuccessors = new HashMap<>();
+        final BitSet blocked = new BitSet();
+        final BitSet forwardSeeds = new BitSet();
+        final BitSet backwardSeeds = new BitSet();
+        boolean requiresRebuild;
+
+        Delta(Graph base, Scenario scenario) {
+            this.base = base;
+            this.durations = base.durations.clone();
+            this.endTimes = base.endTimes.clone();
+            this.tails = base.tails.clone();
+            this.scheduled = base.scheduled.clone();
+
+            for (Map.Entry<String, Integer> entry : scenario.durationOverrides.entrySet()) {
+                int node = indexOf(entry.getKey());
+                durations[node] = entry.getValue();
+                forwardSeeds.set(node);
+            }
+
+            for (Map.Entry<String, List<String>> entry : scenario.dependencyOverrides.entrySet()) {
+                int node = indexOf(entry.getKey());
+                if (requiresRebuild || base.position[node] < 0) {
+                    // May break a cycle: the shared order says nothing about it
+                    requiresRebuild = true;
+                    continue;
+                }
+
+                List<String> dependencies = entry.getValue();
+                int[] known = new int[dependencies.size()];
+                int count = 0;
+                for (String depId : dependencies) {
+                    Integer dep = base.index.get(depId);
+                    if (dep == null || base.position[dep] < 0) {
+                        // Unknown or cyclic dependency: the task can never be scheduled
+                        blocked.set(node);
+                    } else if (base.position[dep] >= base.position[node]) {
+                        requiresRebuild = true;
+                    } else {
+                        known[count++] = dep;
+                    }
+                }
+                if (requiresRebuild) {
+                    continue;
+                }
+                int[] overridden = Arrays.copyOf(known, count);
+                predecessorOverrides.put(node, overridden);
+
+                for (int dep : overridden) {
+                    if (!contains(base.predecessors[node], dep)) {
+                        addedSuccessors.computeIfAbsent(dep, k -> new ArrayList<>()).add(node);
+                    }
+                    backwardSeeds.set(dep);
+                }
+                for (int dep : base.predecessors[node]) {
+                    backwardSeeds.set(dep);
+                }
+                forwardSeeds.set(node);
+            }
+        }
+
+        int indexOf(String id) {
+            Integer node = base.index.get(id);
+            if (node == null) {
+                throw new IllegalArgumentException("Unknown task id in scenario: " + id);
+            }
+            return node;
+        }
+
+        int[] predecessors(int node) {
+            int[] overridden = predecessorOverrides.get(node);
+            return overridden != null ? overridden : base.predecessors[node];
+        }
+
+        boolean hasUnknownDependency(int node) {
+            return predecessorOverrides.containsKey(node) ? blocked.get(node) : base.unknownDependency[node];
+        }
+
+        List<Integer> successors(int node) {
+            List<Integer> result = new ArrayList<>();
+            for (int next : base.successors[node]) {
+                int[] overridden = predecessorOverrides.get(next);
+                if (overridden == null || contains(overridden, node)) {
+                    result.add(next);
+                }
+            }
+            result.addAll(addedSuccessors.getOrDefault(node, List.of()));
+            return result;
+        }
+
+        /**
+         * Recomputes end times in topological order, stopping where nothing changes.
+         */
+        void propagateForward() {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator.comparingInt(n -> base.position[n]));
+            BitSet queued = new BitSet();
+            forwardSeeds.stream()
+                    .filter(node -> base.position[node] >= 0)
+                    .forEach(node -> {
+                        queued.set(node);
+                        queue.add(node);
+                    });
+
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                queued.clear(node);
+
+                boolean ready = !hasUnknownDependency(node);
+                int start = 0;
+                for (int dep : predecessors(node)) {
+                    ready &= scheduled[dep];
+                    start = Math.max(start, endTimes[dep]);
+                }
+                int endTime = ready ? start + durations[node] : 0;
+
+                boolean flipped = ready != scheduled[node];
+                if (flipped || durations[node] != base.durations[node]) {
+                    // Predecessors' tails depend on this task's duration and schedulability
+                    for (int dep : predecessors(node)) {
+                        backwardSeeds.set(dep);
+                    }
+                }
+
+                if (flipped || endTime != endTimes[node]) {
+                    scheduled[node] = ready;
+                    endTimes[node] = endTime;
+                    for (int next : successors(node)) {
+                        if (base.position[next] >= 0 && !queued.get(next)) {
+                            queued.set(next);
+                            queue.add(next);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Recomputes tails in reverse topological order, stopping where nothing changes.
+         */
+        void propagateBackward() {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(
+                Comparator.comparingInt((Integer n) -> base.position[n]).reversed());
+            BitSet queued = new BitSet();
+            backwardSeeds.stream()
+                    .filter(node -> base.position[node] >= 0)
+                    .forEach(node -> {
+                        queued.set(node);
+                        queue.add(node);
+                    });
+
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                queued.clear(node);
+
+                int longest = 0;
+                for (int next : successors(node)) {
+                    if (scheduled[next]) {
+                        longest = Math.max(longest, durations[next] + tails[next]);
+                    }
+                }
+
+                if (longest != tails[node]) {
+                    tails[node] = longest;
+                    for (int dep : predecessors(node)) {
+                        if (base.position[dep] >= 0 && !queued.get(dep)) {
+                            queued.set(dep);
+                            queue.add(dep);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static boolean contains(int[] values, int value) {
+            for (int v : values) {
+                if (v == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.enterprise.taskmanager;
+
+import com.enterprise.taskmanager.core.Task;
+import com.enterprise.taskmanager.scheduling.CriticalPathEngine;
+import com.enterprise.taskmanager.scheduling.ScenarioEngine;
+import com.enterprise.taskmanager.scheduling.ScenarioEngine.Scenario;
+import com.enterprise.taskmanager.scheduling.ScenarioEngine.ScenarioResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ScenarioEngine.
+ * Every scenario is checked against a full CriticalPathEngine run.
+ */
+public class ScenarioEngineTest {
+
+    // A(2) -> B(5) -> C(3) -> E(2)
+    //              -> D(4) ->
+    private static List<Task> project() {
+        return List.of(
+            new Task("A", "Setup", 2, 8, LocalDateTime.now().plusDays(1), List.of()),
+            new Task("B", "Core", 5, 9, LocalDateTime.now().plusDays(2), List.of("A")),
+            new Task("C", "Unit Tests", 3, 7, LocalDateTime.now().plusDays(3), List.of("B")),
+            new Task("D", "Integration", 4, 8, LocalDateTime.now().plusDays(4), List.of("B")),
+            new Task("E", "Deploy", 2, 9, LocalDateTime.now().plusDays(5), List.of("C", "D"))
+        );
+    }
+
+    @Test
+    void shouldMatchCriticalPathEngineForBaseGraph() {
+        assertEquals(CriticalPathEngine.calculate(project()), ScenarioEngine.baseDuration(project()));
+    }
+
+    @Test
+    void shouldEvaluateDurationOverride() {
+        List<ScenarioResult> results = ScenarioEngine.evaluate(project(), List.of(
+            Scenario.duration("B takes 8h", "B", 8)
+        ));
+
+        ScenarioResult result = results.get(0);
+        // 2 + 8 + 4 + 2 = 16
+        assertEquals(16, result.criticalDuration);
+        assertEquals(3, result.durationDelta);
+        assertEquals(List.of("A", "B", "D", "E"), result.criticalChain);
+        assertTrue(result.enteredCriticalChain.isEmpty());
+        assertTrue(result.leftCriticalChain.isEmpty());
+    }
+
+    @Test
+    void shouldEvaluateDependencyOverride() {
+        List<ScenarioResult> results = ScenarioEngine.evaluate(project(), List.of(
+            Scenario.dependencies("D no longer depends on B", "D", List.of())
+        ));
+
+        ScenarioResult result = results.get(0);
+        // max(A+B+C = 10, D = 4) + E = 12
+        assertEquals(12, result.criticalDuration);
+        assertEquals(-1, result.durationDelta);
+        assertEquals(List.of("A", "B", "C", "E"), result.criticalChain);
+        assertEquals(List.of("C"), result.enteredCriticalChain);
+        assertEquals(List.of("D"), result.leftCriticalChain);
+        // C had 1h of slack, D now has 6h instead of 0h
+        assertEquals(Map.of("C", -1, "D", 6), result.slackChanges);
+    }
+
+    @Test
+    void shouldRebuildWhenOverrideReordersGraph() {
+        // A now depends on E: the graph becomes cyclic, nothing is schedulable
+        List<ScenarioResult> results = ScenarioEngine.evaluate(project(), List.of(
+            Scenario.dependencies("cycle", "A", List.of("E"))
+        ));
+
+        assertEquals(0, results.get(0).criticalDuration);
+        assertTrue(results.get(0).criticalChain.isEmpty());
+    }
+
+    @Test
+    void shouldMatchFullRecalculationForManyScenarios() {
+        List<Task> base = project();
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int hours = 0; hours < 20; hours++) {
+            for (Task task : base) {
+                scenarios.add(Scenario.duration(task.id + "=" + hours, task.id, hours));
+            }
+        }
+
+        List<ScenarioResult> results = ScenarioEngine.evaluate(base, scenarios);
+
+        assertEquals(scenarios.size(), results.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            Scenario scenario = scenarios.get(i);
+            List<Task> modified = base.stream()
+                    .map(t -> new Task(t.id, t.title,
+                        scenario.durationOverrides.getOrDefault(t.id, t.estimatedTime),
+                        t.priority, t.dueDate, t.dependencies))
+                    .toList();
+
+            assertEquals(scenario.name, results.get(i).name);
+            assertEquals(CriticalPathEngine.calculate(modified), results.get(i).criticalDuration);
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownTaskInScenario() {
+        assertThrows(IllegalArgumentException.class, () ->
+            ScenarioEngine.evaluate(project(), List.of(Scenario.duration("x", "Z", 1))));
+    }
+}
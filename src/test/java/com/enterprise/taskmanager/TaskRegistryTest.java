@@ -0,0 +1,151 @@
+package com.enterprise.taskmanager;
+
+import com.enterprise.taskmanager.core.PriorityEngine;
+import com.enterprise.taskmanager.core.Task;
+import com.enterprise.taskmanager.core.TaskRegistry;
+import com.enterprise.taskmanager.core.TaskSnapshot;
+import com.enterprise.taskmanager.scheduling.CriticalPathEngine;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TaskRegistry.
+ * Includes a multi-threaded 95/5 read/write stress test.
+ */
+public class TaskRegistryTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.now().plusDays(7);
+
+    private static Task task(String id, int priority, List<String> dependencies) {
+        return new Task(id, "Task " + id, 2, priority, DUE, dependencies);
+    }
+
+    @Test
+    void shouldPublishNewVersionPerWrite() {
+        TaskRegistry registry = new TaskRegistry();
+
+        TaskSnapshot empty = registry.snapshot("acme");
+        assertEquals(0, empty.version);
+        assertEquals(0, empty.size());
+
+        assertEquals(1, registry.put("acme", task("1", 5, List.of())));
+        assertEquals(2, registry.put("acme", task("2", 9, List.of("1"))));
+        assertEquals(3, registry.remove("acme", "1"));
+
+        TaskSnapshot snapshot = registry.snapshot("acme");
+        assertEquals(3, snapshot.version);
+        assertEquals(1, snapshot.size());
+        assertFalse(snapshot.contains("1"));
+        assertEquals(9, snapshot.get("2").priority);
+    }
+
+    @Test
+    void shouldKeepOldSnapshotsUnchanged() {
+        TaskRegistry registry = new TaskRegistry();
+        registry.put("acme", task("1", 5, List.of()));
+
+        TaskSnapshot before = registry.snapshot("acme");
+        registry.put("acme", task("1", 8, List.of()));
+        registry.put("acme", task("2", 3, List.of()));
+
+        assertEquals(5, before.get("1").priority);
+        assertEquals(1, before.tasks.size());
+        assertEquals(8, registry.snapshot("acme").get("1").priority);
+    }
+
+    @Test
+    void shouldIsolatePartitions() {
+        TaskRegistry registry = new TaskRegistry();
+        registry.put("acme", task("1", 5, List.of()));
+        registry.put("globex", task("1", 9, List.of()));
+
+        assertEquals(5, registry.snapshot("acme").get("1").priority);
+        assertEquals(9, registry.snapshot("globex").get("1").priority);
+        assertEquals(1, registry.snapshot("globex").version);
+        assertEquals(2, registry.partitions().size());
+    }
+
+    @Test
+    void shouldFeedSnapshotToEngines() {
+        TaskRegistry registry = new TaskRegistry();
+        registry.apply("acme", List.of(
+            task("A", 9, List.of()),
+            task("B", 3, List.of("A")),
+            task("C", 8, List.of("B"))
+        ), List.of());
+
+        TaskSnapshot snapshot = registry.snapshot("acme");
+        assertEquals(1, snapshot.version);
+        assertEquals(6, CriticalPathEngine.calculate(snapshot.tasks));
+        assertEquals(2, PriorityEngine.classify(snapshot.tasks)[0][1].size());
+    }
+
+    @Test
+    void shouldServeConsistentSnapshotsUnderMixedLoad() throws InterruptedException {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int operationsPerThread = 20_000;
+
+        TaskRegistry registry = new TaskRegistry();
+        // "a" and "b" are always written together with the same priority
+        registry.apply("acme", List.of(task("a", 0, List.of()), task("b", 0, List.of())), List.of());
+
+        AtomicLong generation = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            workers.add(new Thread(() -> {
+                try {
+                    start.await();
+                    long lastVersion = 0;
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        if (ThreadLocalRandom.current().nextInt(100) < 5) {
+                            int priority = (int) generation.incrementAndGet();
+                            long version = registry.apply("acme",
+                                List.of(task("a", priority, List.of()), task("b", priority, List.of())),
+                                List.of());
+                            assertTrue(registry.snapshot("acme").version >= version);
+                            writes.incrementAndGet();
+                        } else {
+                            TaskSnapshot snapshot = registry.snapshot("acme");
+                            assertTrue(snapshot.version >= lastVersion, "version went backwards");
+                            assertEquals(snapshot.get("a").priority, snapshot.get("b").priority);
+                            assertEquals(2, snapshot.size());
+                            PriorityEngine.classify(snapshot.tasks);
+                            lastVersion = snapshot.version;
+                            reads.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+
+        workers.forEach(Thread::start);
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals((long) threads * operationsPerThread, reads.get() + writes.get());
+
+        // Batching may fold several writes into one version, never the other way round
+        TaskSnapshot last = registry.snapshot("acme");
+        assertTrue(last.version >= 1 && last.version <= writes.get() + 1);
+        assertTrue(last.get("a").priority <= generation.get());
+    }
+}
@@ -0,0 +1,203 @@
+package com.enterprise.taskmanager;
+
+import com.enterprise.taskmanager.analytics.DueDateSkewSketch;
+import com.enterprise.taskmanager.analytics.TaskEvent;
+import com.enterprise.taskmanager.analytics.TumblingWindowAggregator;
+import com.enterprise.taskmanager.analytics.WorkloadAccumulator;
+import com.enterprise.taskmanager.analytics.WorkloadAnalytics;
+import com.enterprise.taskmanager.core.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the workload analytics aggregators.
+ * Fixed timestamps, no wall clock.
+ */
+public class WorkloadAnalyticsTest {
+
+    // Sunday 2024-01-07 09:00
+    private static final LocalDateTime SUNDAY_9AM = LocalDateTime.of(2024, 1, 7, 9, 0);
+
+    private static TaskEvent event(int estimatedTime, int priority, LocalDateTime due, LocalDateTime at) {
+        return new TaskEvent(new Task("t", "Task", estimatedTime, priority, due, List.of()), at);
+    }
+
+    private static List<TaskEvent> events(int n) {
+        List<TaskEvent> events = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            LocalDateTime at = SUNDAY_9AM.plusHours(i % 200);
+            events.add(event(i % 8, i % 10, at.plusHours((i % 50) - 20), at));
+        }
+        return events;
+    }
+
+    @Test
+    void shouldFillHeatmapFromSundayZero() {
+        WorkloadAccumulator accumulator = WorkloadAnalytics.aggregate(List.of(
+            event(2, 5, SUNDAY_9AM.plusDays(1), SUNDAY_9AM),
+            event(3, 5, SUNDAY_9AM.plusDays(1), SUNDAY_9AM.plusDays(1).plusHours(5))
+        ));
+
+        long[][] heatmap = accumulator.heatmap();
+        assertEquals(1, heatmap[0][9]);  // Sunday 09h
+        assertEquals(1, heatmap[1][14]); // Monday 14h
+        assertEquals(2, accumulator.count());
+        assertEquals(5, accumulator.estimatedHours());
+        assertEquals(2.5, accumulator.averageEstimatedHours(), 0.001);
+    }
+
+    @Test
+    void shouldCountQuadrantsAtEventTime() {
+        WorkloadAccumulator accumulator = WorkloadAnalytics.aggregate(List.of(
+            event(1, 9, SUNDAY_9AM.minusHours(1), SUNDAY_9AM), // urgent + important
+            event(1, 9, SUNDAY_9AM.plusHours(1), SUNDAY_9AM),  // important
+            event(1, 2, SUNDAY_9AM.minusHours(1), SUNDAY_9AM), // urgent
+            event(1, 2, SUNDAY_9AM.plusHours(1), SUNDAY_9AM)   // neither
+        ));
+
+        assertEquals(1, accumulator.quadrantCount(1, 1));
+        assertEquals(1, accumulator.quadrantCount(0, 1));
+        assertEquals(1, accumulator.quadrantCount(1, 0));
+        assertEquals(1, accumulator.quadrantCount(0, 0));
+    }
+
+    @Test
+    void shouldRejectOutOfRangeQuadrant() {
+        WorkloadAccumulator accumulator = new WorkloadAccumulator();
+
+        assertThrows(IllegalArgumentException.class, () -> accumulator.quadrantCount(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> accumulator.quadrantCount(-1, 0));
+    }
+
+    @Test
+    void shouldMatchSequentialAggregationWhenParallel() {
+        List<TaskEvent> events = events(50_000);
+
+        WorkloadAccumulator sequential = events.stream().collect(WorkloadAnalytics.collector());
+        WorkloadAccumulator parallel = WorkloadAnalytics.aggregate(events);
+
+        assertEquals(sequential.count(), parallel.count());
+        assertEquals(sequential.estimatedHours(), parallel.estimatedHours());
+        assertArrayEquals(sequential.heatmap(), parallel.heatmap());
+        for (int u = 0; u < 2; u++) {
+            for (int i = 0; i < 2; i++) {
+                assertEquals(sequential.quadrantCount(u, i), parallel.quadrantCount(u, i));
+            }
+        }
+        assertEquals(sequential.skew().quantile(0.5), parallel.skew().quantile(0.5));
+    }
+
+    @Test
+    void shouldApproximateSkewQuantiles() {
+        DueDateSkewSketch sketch = new DueDateSkewSketch();
+        for (int hours = -100; hours <= 100; hours++) {
+            sketch.add(hours);
+        }
+
+        assertEquals(201, sketch.count());
+        assertEquals(-100, sketch.min());
+        assertEquals(100, sketch.max());
+        assertEquals(-100, sketch.quantile(0.0));
+        assertEquals(0, sketch.quantile(0.5));
+        // Within a factor of two of the exact value (100)
+        long p100 = sketch.quantile(1.0);
+        assertTrue(p100 >= 50 && p100 <= 100, "p100 = " + p100);
+    }
+
+    @Test
+    void shouldAggregateTumblingWindows() {
+        TumblingWindowAggregator aggregator = new TumblingWindowAggregator(Duration.ofHours(1), 24);
+
+        assertTrue(aggregator.add(event(2, 5, SUNDAY_9AM.plusDays(1), SUNDAY_9AM.plusMinutes(10))));
+        assertTrue(aggregator.add(event(3, 5, SUNDAY_9AM.plusDays(1), SUNDAY_9AM.plusMinutes(50))));
+        assertEquals(1, aggregator.addAll(List.of(
+            event(4, 5, SUNDAY_9AM.plusDays(1), SUNDAY_9AM.plusHours(1))
+        )));
+
+        assertEquals(SUNDAY_9AM, aggregator.windowStart(SUNDAY_9AM.plusMinutes(30)));
+        assertEquals(2, aggregator.window(SUNDAY_9AM).count());
+        assertEquals(5, aggregator.window(SUNDAY_9AM).estimatedHours());
+        assertEquals(1, aggregator.window(SUNDAY_9AM.plusHours(1)).count());
+        assertEquals(3, aggregator.total().count());
+        assertEquals(List.of(2L, 1L), List.copyOf(aggregator.throughput().values()));
+    }
+
+    @Test
+    void shouldEvictWindowsOutsideRetention() {
+        TumblingWindowAggregator aggregator = new TumblingWindowAggregator(Duration.ofHours(1), 2);
+
+        aggregator.add(event(1, 5, SUNDAY_9AM, SUNDAY_9AM));
+        aggregator.add(event(1, 5, SUNDAY_9AM, SUNDAY_9AM.plusHours(1)));
+        aggregator.add(event(1, 5, SUNDAY_9AM, SUNDAY_9AM.plusHours(2)));
+
+        assertEquals(0, aggregator.window(SUNDAY_9AM).count());
+        assertEquals(2, aggregator.total().count());
+        // Late event for an evicted window is dropped
+        assertFalse(aggregator.add(event(1, 5, SUNDAY_9AM, SUNDAY_9AM)));
+    }
+
+    @Test
+    void shouldMatchBatchAggregationWhenAddedConcurrently() throws InterruptedException {
+        List<TaskEvent> events = events(20_000);
+        TumblingWindowAggregator aggregator = new TumblingWindowAggregator(Duration.ofHours(1), 1000);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            List<TaskEvent> slice = events.subList(t * 5_000, (t + 1) * 5_000);
+            threads.add(new Thread(() -> slice.forEach(aggregator::add)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        WorkloadAccumulator expected = WorkloadAnalytics.aggregate(events);
+        assertEquals(expected.count(), aggregator.total().count());
+        assertArrayEquals(expected.heatmap(), aggregator.total().heatmap());
+    }
+
+    @Test
+    void shouldEvictConcurrentlyWithinRetention() throws InterruptedException {
+        int retainedWindows = 2;
+        TumblingWindowAggregator aggregator = new TumblingWindowAggregator(Duration.ofHours(1), retainedWindows);
+        Map<LocalDateTime, AtomicLong> accepted = new ConcurrentHashMap<>();
+
+        // Each round a writer fills the oldest retained window while the main thread
+        // opens a newer one, evicting it mid-write; time keeps moving forward
+        for (int round = 0; round < 2_000; round++) {
+            LocalDateTime current = SUNDAY_9AM.plusHours(round);
+            LocalDateTime next = current.plusHours(retainedWindows);
+
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    if (aggregator.add(event(1, 5, current, current))) {
+                        accepted.computeIfAbsent(current, k -> new AtomicLong()).incrementAndGet();
+                    }
+                }
+            });
+            writer.start();
+            Thread.yield();
+            if (aggregator.add(event(1, 5, next, next))) {
+                accepted.computeIfAbsent(next, k -> new AtomicLong()).incrementAndGet();
+            }
+            writer.join();
+
+            NavigableMap<LocalDateTime, Long> throughput = aggregator.throughput();
+            assertTrue(throughput.size() <= retainedWindows, "windows = " + throughput.size());
+            assertEquals(next, throughput.lastKey());
+            for (Map.Entry<LocalDateTime, Long> window : throughput.entrySet()) {
+                assertEquals(accepted.get(window.getKey()).get(), (long) window.getValue());
+            }
+        }
+    }
+}